@@ -0,0 +1,103 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import network.NetworkClient;
+
+/**
+ * Measures how long the NetworkClient takes to take in one full send tick from
+ * the robot, from the first byte arriving to the last value being readable.
+ * This covers NetworkComponent.readIncomingData, and with monitors registered,
+ * NetworkComponent.runCallbacksFor for every changed value. Every value changes
+ * on every tick, as it would for a robot streaming sensor readings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkReceiveBenchmark {
+
+	private static final String MARKER_NAME = "bench/marker";
+	private static final long POLL_INTERVAL_NANOS = 20000;
+
+	@Param({ "10", "1000" })
+	private int keyCount;
+
+	@Param({ "0", "4" })
+	private int monitorsPerKey;
+
+	private RobotStub robot;
+
+	// Two alternating ticks, so every value differs from the one before it
+	private byte[][] ticks;
+	private int tickNumber;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		robot = new RobotStub();
+		robot.connect();
+
+		String[] names = new String[keyCount + 1];
+		for (int i = 0; i < keyCount; i++) {
+			names[i] = "drive/module" + (i % 4) + "/value" + i;
+		}
+		names[keyCount] = MARKER_NAME;
+
+		ticks = new byte[2][];
+		for (int tick = 0; tick < 2; tick++) {
+			String[] values = new String[keyCount + 1];
+			for (int i = 0; i < keyCount; i++) {
+				values[i] = Double.toString(Math.sin(i + tick));
+			}
+			values[keyCount] = Integer.toString(tick);
+			ticks[tick] = RobotStub.encode(names, values);
+		}
+
+		for (int i = 0; i < keyCount; i++) {
+			for (int j = 0; j < monitorsPerKey; j++) {
+				NetworkClient.getInstance().addValueMonitor(names[i], "bench-" + j, () -> {
+				});
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		robot.close();
+	}
+
+	@Benchmark
+	public String receiveTick() throws IOException {
+		int tick = tickNumber++ % 2;
+		String expected = Integer.toString(tick);
+
+		robot.send(ticks[tick]);
+
+		// The marker is the last value of the tick, so once it has changed every
+		// other value has been read. The check backs off between attempts, as spinning
+		// on the client's table lock would slow down the very thread being measured.
+		NetworkClient client = NetworkClient.getInstance();
+		while (!client.hasValue(MARKER_NAME) || !expected.equals(client.readString(MARKER_NAME))) {
+			LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+		}
+		return expected;
+	}
+}
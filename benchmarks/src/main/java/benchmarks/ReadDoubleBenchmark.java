@@ -0,0 +1,72 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import network.NetworkClient;
+
+/**
+ * Measures NetworkClient.readDouble, the call widgets such as the graph make on
+ * every poll, against a table holding a realistic number of values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadDoubleBenchmark {
+
+	@Param({ "10", "1000" })
+	private int keyCount;
+
+	private RobotStub robot;
+
+	private String[] names;
+	private int nextName;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		robot = new RobotStub();
+		robot.connect();
+
+		names = new String[keyCount];
+		String[] values = new String[keyCount];
+		for (int i = 0; i < keyCount; i++) {
+			names[i] = "drive/module" + (i % 4) + "/value" + i;
+			values[i] = Double.toString(Math.sin(i));
+		}
+		robot.send(RobotStub.encode(names, values));
+
+		NetworkClient client = NetworkClient.getInstance();
+		while (!client.hasValue(names[keyCount - 1])) {
+			Thread.onSpinWait();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		robot.close();
+	}
+
+	@Benchmark
+	public double readDouble() {
+		String name = names[nextName];
+		nextName = (nextName + 1) % names.length;
+		return NetworkClient.getInstance().readDouble(name);
+	}
+}
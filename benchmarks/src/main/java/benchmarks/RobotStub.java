@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import network.NetworkClient;
+
+/**
+ * Stands in for the robot's NetworkServer during benchmarks. The stub accepts
+ * the NetworkClient's connection on a local port and writes pre-encoded frames
+ * to it directly, so the time measured is spent on the client's side of the
+ * connection only. Anything the client sends, such as pings, is read and
+ * discarded.
+ */
+public class RobotStub {
+
+	private final ServerSocket serverSocket;
+	private Socket socket;
+	private OutputStream out;
+
+	public RobotStub() throws IOException {
+		serverSocket = new ServerSocket(0);
+		serverSocket.setSoTimeout(10000);
+	}
+
+	/**
+	 * Points the NetworkClient at this stub and waits for it to connect.
+	 *
+	 * @throws IOException If the client does not connect in time.
+	 */
+	public void connect() throws IOException {
+		NetworkClient.getInstance().setAddress("localhost", serverSocket.getLocalPort());
+		socket = serverSocket.accept();
+		socket.setTcpNoDelay(true);
+		out = socket.getOutputStream();
+
+		InputStream in = socket.getInputStream();
+		Thread drainThread = new Thread(() -> {
+			byte[] buffer = new byte[4096];
+			try {
+				while (in.read(buffer) != -1) {
+				}
+			} catch (IOException e) {
+			}
+		}, "Robot-Stub-Drain-Thread");
+		drainThread.setDaemon(true);
+		drainThread.start();
+
+		while (!NetworkClient.getInstance().isConnected()) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Encodes values the same way the NetworkServer does before sending them.
+	 *
+	 * @param names  The names of the values.
+	 * @param values The values, in the same order as the names.
+	 * @return The encoded frames, ready to be sent.
+	 */
+	public static byte[] encode(String[] names, String[] values) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < names.length; i++) {
+			sb.append('`').append(names[i]).append("`,`").append(values[i]).append("`;");
+		}
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	public void send(byte[] frames) throws IOException {
+		out.write(frames);
+		out.flush();
+	}
+
+	public void close() throws IOException {
+		if (socket != null) {
+			socket.close();
+		}
+		serverSocket.close();
+	}
+}
@@ -0,0 +1,79 @@
+package dashboard;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.RobotStub;
+import widgets.BooleanBox;
+import widgets.TextBoxWidget;
+
+/**
+ * Measures WidgetPanel.toSaveForm, which builds the layout string written when
+ * the dashboard is saved, for layouts of different sizes. This lives in the
+ * dashboard package as toSaveForm is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WidgetPanelBenchmark {
+
+	@Param({ "10", "100" })
+	private int widgetCount;
+
+	private RobotStub robot;
+
+	private WidgetPanel widgetPanel;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		// The widgets register value monitors, so give the NetworkClient something to
+		// connect to rather than letting it retry in the background
+		robot = new RobotStub();
+		robot.connect();
+
+		widgetPanel = new WidgetPanel();
+		for (int i = 0; i < widgetCount; i++) {
+			Widget widget;
+			HashMap<String, String> settings = new HashMap<String, String>();
+			if (i % 2 == 0) {
+				widget = new TextBoxWidget();
+				settings.put("valueToDisplay", "drive/module" + (i % 4) + "/speed");
+				settings.put("editable", "true");
+			} else {
+				widget = new BooleanBox();
+				settings.put("valueToWatch", "robot/subsystem" + i + "/ready");
+			}
+			widgetPanel.addWidget(widget);
+			widget.getMoveResizePanel().setBounds(i * 10, i * 5, 200, 100);
+			widget.widgetLoaded(settings);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		robot.close();
+	}
+
+	@Benchmark
+	public String toSaveForm() {
+		return widgetPanel.toSaveForm();
+	}
+}
@@ -0,0 +1,101 @@
+package widgets;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the graph's updateDisplayImage, which runs on every repaint of the
+ * dashboard (every 20 ms), with a full history of samples. The graph keeps its
+ * history and drawing code private, so the history is filled and the drawing
+ * invoked through reflection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphWidgetBenchmark {
+
+	private static final int POLLING_RATE = 100;
+
+	// In seconds, as set in the graph's settings
+	@Param({ "10", "100" })
+	private int historyLength;
+
+	private GraphWidget graphWidget;
+	private JPanel graphPanel;
+	private Method updateDisplayImage;
+
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		graphWidget = new GraphWidget();
+
+		HashMap<String, String> settings = new HashMap<String, String>();
+		settings.put("historyLength", historyLength + "");
+		settings.put("pollingRate", POLLING_RATE + "");
+		graphWidget.widgetLoaded(settings);
+
+		// Stop the polling thread so the history stays exactly as filled below
+		graphWidget.deconstruct();
+
+		Field graphPanelField = GraphWidget.class.getDeclaredField("graphPanel");
+		graphPanelField.setAccessible(true);
+		graphPanel = (JPanel) graphPanelField.get(graphWidget);
+		graphPanel.setSize(800, 400);
+
+		updateDisplayImage = graphPanel.getClass().getDeclaredMethod("updateDisplayImage");
+		updateDisplayImage.setAccessible(true);
+	}
+
+	/**
+	 * Fills the history with a sine wave ending now, so the whole history is on
+	 * screen for every iteration.
+	 */
+	@Setup(Level.Iteration)
+	@SuppressWarnings("unchecked")
+	public void fillHistory() throws ReflectiveOperationException {
+		Field historyField = GraphWidget.class.getDeclaredField("valueHistory");
+		historyField.setAccessible(true);
+		List<Object> history = (List<Object>) historyField.get(graphWidget);
+
+		Class<?> sampleClass = Class.forName(GraphWidget.class.getName() + "$Sample");
+		Constructor<?> sampleConstructor = sampleClass.getDeclaredConstructor(long.class, Double.class);
+		sampleConstructor.setAccessible(true);
+
+		long now = System.currentTimeMillis();
+		int sampleCount = historyLength * POLLING_RATE;
+		synchronized (history) {
+			history.clear();
+			for (int i = 0; i < sampleCount; i++) {
+				double value = 3 * Math.sin(i / 50.0);
+				history.add(sampleConstructor.newInstance(now - i * (1000L / POLLING_RATE), value));
+			}
+		}
+	}
+
+	@Benchmark
+	public JPanel updateDisplayImage() throws ReflectiveOperationException {
+		updateDisplayImage.invoke(graphPanel);
+		return graphPanel;
+	}
+}
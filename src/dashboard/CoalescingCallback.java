@@ -0,0 +1,217 @@
+package dashboard;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+import network.NetworkCallback;
+import network.NetworkClient;
+import network.ValueNotFoundException;
+
+/**
+ * A value monitor that collapses bursts of change notifications into a single
+ * update. The NetworkClient runs every callback on one shared timer thread, so
+ * a widget doing any real work inside its callback delays every other monitor.
+ * Instead, this callback only records that an update is pending and hands the
+ * actual work to the Swing event thread. Any notifications that arrive before
+ * that work has run are merged into it, so the widget always sees the latest
+ * value and never falls behind a fast changing one.
+ *
+ * <br>
+ * <br>
+ *
+ * A CoalescingCallback can also filter out changes before any work is
+ * scheduled for them. A deadband ignores numeric changes too small to matter,
+ * and a minimum interval limits how often the update runs. Changes held back
+ * by the minimum interval are not lost, the update runs once more at the end
+ * of the interval with the latest value.
+ *
+ * @see network.NetworkClient#addValueMonitor(String, String, NetworkCallback)
+ */
+public class CoalescingCallback implements NetworkCallback {
+
+	/**
+	 * The longest minimum interval that may be set (in milliseconds).
+	 *
+	 * @see #setMinimumInterval(int)
+	 */
+	public static final int MAX_MINIMUM_INTERVAL = 10000;
+
+	private static final Timer delayTimer = new Timer("Coalescing-Callback-Timer", true);
+
+	// Weight given to each new dispatch in the average latency. Recent dispatches
+	// dominate, so a stall on the event thread shows up quickly.
+	private static final double LATENCY_SMOOTHING = 0.05;
+
+	private static final AtomicInteger pendingDispatches = new AtomicInteger();
+
+	// Only updated on the Swing event thread
+	private static volatile double averageDispatchLatency = Double.NaN;
+
+	private final Runnable update;
+
+	private final AtomicBoolean pending;
+	private volatile long pendingSince;
+
+	private int minimumInterval;
+	private long lastScheduleTime;
+	private boolean delayedScheduled;
+
+	private String deadbandValueName;
+	private double absoluteDeadband;
+	private double relativeDeadband;
+	private double lastPassedValue;
+
+	/**
+	 * Creates a callback that runs the given update on the Swing event thread.
+	 *
+	 * @param update The procedure to run when the monitored value has changed.
+	 */
+	public CoalescingCallback(Runnable update) {
+		this.update = update;
+		this.pending = new AtomicBoolean();
+		this.lastPassedValue = Double.NaN;
+	}
+
+	/**
+	 * Sets the minimum time between runs of the update. Changes arriving sooner
+	 * are held back, and delivered together once the interval has passed.
+	 *
+	 * @param minimumInterval The minimum interval (in milliseconds), or 0 to run
+	 *                        the update for every change. Values outside 0 to
+	 *                        {@link #MAX_MINIMUM_INTERVAL} are clamped to that
+	 *                        range.
+	 */
+	public synchronized void setMinimumInterval(int minimumInterval) {
+		this.minimumInterval = Math.max(0, Math.min(minimumInterval, MAX_MINIMUM_INTERVAL));
+	}
+
+	/**
+	 * Sets a deadband on the numeric value being monitored. A change is ignored
+	 * if it differs from the last value let through by no more than the absolute
+	 * deadband, or by no more than the relative deadband as a fraction of that
+	 * last value. Values which are not numbers are never ignored.
+	 *
+	 * @param valueName        The name of the value being monitored.
+	 * @param absoluteDeadband The smallest change to let through, or 0 for none.
+	 * @param relativeDeadband The smallest change to let through as a fraction of
+	 *                         the last value, or 0 for none.
+	 */
+	public synchronized void setDeadband(String valueName, double absoluteDeadband, double relativeDeadband) {
+		this.deadbandValueName = valueName;
+		this.absoluteDeadband = absoluteDeadband;
+		this.relativeDeadband = relativeDeadband;
+		this.lastPassedValue = Double.NaN;
+	}
+
+	@Override
+	public void valueChanged() {
+		synchronized (this) {
+			if (!passesDeadband()) {
+				return;
+			}
+
+			long curTime = System.currentTimeMillis();
+			long timeToWait = lastScheduleTime + minimumInterval - curTime;
+			if (timeToWait > 0) {
+				// Too soon, make sure the latest value is delivered once the interval is up
+				if (!delayedScheduled) {
+					delayedScheduled = true;
+					delayTimer.schedule(new TimerTask() {
+						@Override
+						public void run() {
+							synchronized (CoalescingCallback.this) {
+								delayedScheduled = false;
+								lastScheduleTime = System.currentTimeMillis();
+							}
+							schedule();
+						}
+					}, timeToWait);
+				}
+				return;
+			}
+			lastScheduleTime = curTime;
+		}
+
+		schedule();
+	}
+
+	private boolean passesDeadband() {
+		if (deadbandValueName == null || (absoluteDeadband <= 0 && relativeDeadband <= 0)) {
+			return true;
+		}
+
+		double value;
+		try {
+			value = NetworkClient.getInstance().readDouble(deadbandValueName);
+		} catch (IllegalArgumentException | ValueNotFoundException e) {
+			// Forget the last number, or the first one after this would be compared
+			// against it and could be dropped while this value is still displayed
+			lastPassedValue = Double.NaN;
+			return true;
+		}
+
+		if (!Double.isNaN(lastPassedValue)) {
+			double deadband = Math.max(absoluteDeadband, relativeDeadband * Math.abs(lastPassedValue));
+			if (Math.abs(value - lastPassedValue) <= deadband) {
+				return false;
+			}
+		}
+
+		lastPassedValue = value;
+		return true;
+	}
+
+	private void schedule() {
+		// Only the first notification schedules any work, the rest are folded into it
+		if (pending.compareAndSet(false, true)) {
+			pendingSince = System.nanoTime();
+			pendingDispatches.incrementAndGet();
+			SwingUtilities.invokeLater(() -> dispatch());
+		}
+	}
+
+	private void dispatch() {
+		// Clear the flag first so a change arriving during the update is not lost
+		pending.set(false);
+		pendingDispatches.decrementAndGet();
+
+		double latency = (System.nanoTime() - pendingSince) / 1000000.0;
+		double curAverage = averageDispatchLatency;
+		if (Double.isNaN(curAverage)) {
+			averageDispatchLatency = latency;
+		} else {
+			averageDispatchLatency = curAverage + LATENCY_SMOOTHING * (latency - curAverage);
+		}
+
+		update.run();
+	}
+
+	/**
+	 * Gets the number of updates that have been scheduled but have not yet run,
+	 * across all coalescing callbacks.
+	 *
+	 * @return The number of pending updates.
+	 */
+	public static int getPendingDispatches() {
+		return pendingDispatches.get();
+	}
+
+	/**
+	 * Gets the recent average time between a value changing and the update for it
+	 * being run, across all coalescing callbacks. This is an exponentially weighted
+	 * moving average, so it follows the current health of the event thread rather
+	 * than its whole history. Value monitors which are not coalescing callbacks are
+	 * not counted.
+	 *
+	 * @return The average dispatch latency (in milliseconds), or 0 if no update
+	 *         has run yet.
+	 */
+	public static double getAverageDispatchLatency() {
+		double curAverage = averageDispatchLatency;
+		return Double.isNaN(curAverage) ? 0 : curAverage;
+	}
+}
@@ -0,0 +1,18 @@
+package dashboard;
+
+/**
+ * A functional interface used to provide a procedure to run when the
+ * dashboard's connection to the robot is gained or lost.
+ * 
+ * @see ConnectionMonitor#addConnectionListener(ConnectionListener)
+ */
+public interface ConnectionListener {
+	/**
+	 * Callback method invoked on the Swing event thread by the
+	 * {@link ConnectionMonitor} when the connection state has changed.
+	 * 
+	 * @param connected <tt>true</tt> if the connection was just established,
+	 *                  <tt>false</tt> if it was just lost.
+	 */
+	void connectionChanged(boolean connected);
+}
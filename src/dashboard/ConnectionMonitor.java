@@ -0,0 +1,136 @@
+package dashboard;
+
+import java.util.ArrayList;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import javax.swing.SwingUtilities;
+
+import network.NetworkClient;
+
+/**
+ * Watches the connection state of the NetworkClient and notifies listeners when
+ * it changes. Widgets should subscribe here rather than each polling
+ * {@link NetworkClient#isConnected()} on their own timers. Listeners are always
+ * notified on the Swing event thread, so they never run on, or hold up, the
+ * threads the NetworkClient uses to connect, read and write.
+ * 
+ * <br>
+ * <br>
+ * 
+ * <b>Note that this class operates on a singleton pattern. Use
+ * {@link #getInstance()} to access the instance of ConnectionMonitor.</b>
+ */
+public class ConnectionMonitor {
+
+	private static final int POLLING_PERIOD = 100;
+
+	private static final ConnectionMonitor INSTANCE = new ConnectionMonitor();
+
+	private final ArrayList<ConnectionListener> listeners;
+
+	private volatile boolean connected;
+	private boolean hasConnected;
+	private volatile int reconnectCount;
+
+	/**
+	 * Gets the ConnectionMonitor for the dashboard.
+	 * 
+	 * @return The ConnectionMonitor.
+	 */
+	public static ConnectionMonitor getInstance() {
+		return INSTANCE;
+	}
+
+	private ConnectionMonitor() {
+		listeners = new ArrayList<ConnectionListener>();
+
+		Timer timer = new Timer("Connection-Monitor-Timer", true);
+		timer.schedule(new TimerTask() {
+			@Override
+			public void run() {
+				checkConnection();
+			}
+		}, 0, POLLING_PERIOD);
+	}
+
+	private void checkConnection() {
+		boolean nowConnected = NetworkClient.getInstance().isConnected();
+
+		// Changed and posted under the same lock as adding a listener, so a new
+		// listener's initial state can never be queued after a newer change
+		synchronized (listeners) {
+			if (nowConnected != connected) {
+				if (nowConnected) {
+					if (hasConnected) {
+						reconnectCount++;
+					}
+					hasConnected = true;
+				}
+
+				connected = nowConnected;
+				SwingUtilities.invokeLater(() -> notifyListeners(nowConnected));
+			}
+		}
+	}
+
+	private void notifyListeners(boolean nowConnected) {
+		// Copied so that listeners may add or remove listeners when notified
+		ArrayList<ConnectionListener> toNotify;
+		synchronized (listeners) {
+			toNotify = new ArrayList<ConnectionListener>(listeners);
+		}
+
+		for (ConnectionListener curListener : toNotify) {
+			curListener.connectionChanged(nowConnected);
+		}
+	}
+
+	/**
+	 * Adds a listener to be notified each time the connection is gained or lost.
+	 * The listener is immediately notified of the current state, so it does not
+	 * need to query it separately.
+	 * 
+	 * @param listener The listener to add.
+	 */
+	public void addConnectionListener(ConnectionListener listener) {
+		synchronized (listeners) {
+			listeners.add(listener);
+			boolean curConnected = connected;
+			SwingUtilities.invokeLater(() -> listener.connectionChanged(curConnected));
+		}
+	}
+
+	/**
+	 * Removes a previously added listener. If the listener was never added, this
+	 * method does nothing.
+	 * 
+	 * @param listener The listener to remove.
+	 * 
+	 * @see #addConnectionListener(ConnectionListener)
+	 */
+	public void removeConnectionListener(ConnectionListener listener) {
+		synchronized (listeners) {
+			listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Returns the last connection state observed by this monitor.
+	 * 
+	 * @return <tt>true</tt> if connected, <tt>false</tt> otherwise.
+	 */
+	public boolean isConnected() {
+		return connected;
+	}
+
+	/**
+	 * Gets the number of times the connection has been re-established after being
+	 * lost. The first connection is not counted.
+	 * 
+	 * @return The number of reconnects.
+	 */
+	public int getReconnectCount() {
+		return reconnectCount;
+	}
+}
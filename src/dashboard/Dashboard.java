@@ -52,6 +52,8 @@ public class Dashboard {
 
 	private static final File DATA_DIR = new File(System.getProperty("user.home"), "DashboardData");
 
+	private static final int CLIENT_SEND_FREQUENCY = 20;
+
 	private final ArrayList<Class<? extends Widget>> widgetTypes;
 
 	private JFrame frame;
@@ -153,6 +155,11 @@ public class Dashboard {
 		// Set the address of the server and begin connecting
 		NetworkClient.getInstance().setAddress("localhost", 12345);
 
+		// The NetworkClient only sends once a second by default, which is a long wait
+		// for a value typed into the dashboard. The dashboard writes very few values,
+		// so sending them more often costs next to nothing.
+		NetworkClient.getInstance().setSendFrequency(CLIENT_SEND_FREQUENCY);
+
 		// Setup the UI
 		frame = new JFrame("Dashboard");
 		frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
@@ -349,9 +356,12 @@ public class Dashboard {
 				// Set the network settings
 				NetworkClient.getInstance().setAddress(splitMyData[0], Integer.parseInt(splitMyData[1]));
 
-				// Set the widgets
+				// Set the widgets. A layout saved with no widgets has nothing after the
+				// network settings.
 				widgetPanel.clear();
-				widgetPanel.addFromData(splitData[1]);
+				if (splitData.length > 1 && !splitData[1].isEmpty()) {
+					widgetPanel.addFromData(splitData[1]);
+				}
 				br.close();
 			} catch (Exception e) {
 				e.printStackTrace();
@@ -146,9 +146,9 @@ abstract public class Widget extends JPanel {
 	 */
 	String toSaveForm() {
 		// Add the basic information about this widget
-		String s = this.getClass().getCanonicalName() + ",";
-		s += moveResizePanel.getX() + "," + moveResizePanel.getY() + "," + moveResizePanel.getWidth() + ","
-				+ moveResizePanel.getHeight();
+		StringBuilder sb = new StringBuilder(this.getClass().getCanonicalName());
+		sb.append(',').append(moveResizePanel.getX()).append(',').append(moveResizePanel.getY());
+		sb.append(',').append(moveResizePanel.getWidth()).append(',').append(moveResizePanel.getHeight());
 
 		// Add widget specific information. This data is provided by each widget type
 		// individually as a map, and is then converted to a Base64 string. Base64
@@ -158,11 +158,11 @@ abstract public class Widget extends JPanel {
 		if (saveMap != null) {
 			Encoder encoder = Base64.getEncoder();
 			for (Entry<String, String> curEntry : saveMap.entrySet()) {
-				s += "," + encoder.encodeToString(curEntry.getKey().getBytes());
-				s += ":" + encoder.encodeToString(curEntry.getValue().getBytes());
+				sb.append(',').append(encoder.encodeToString(curEntry.getKey().getBytes()));
+				sb.append(':').append(encoder.encodeToString(curEntry.getValue().getBytes()));
 			}
 		}
-		return s;
+		return sb.toString();
 	}
 
 	/**
@@ -105,15 +105,18 @@ public class WidgetPanel extends JPanel {
 	 * @see WidgetPanel#addFromData(String)
 	 */
 	String toSaveForm() {
-		String s = "";
+		StringBuilder sb = new StringBuilder();
 
 		for (int i = 0; i < widgets.size(); i++) {
 			// Widgets are responsible for formatting themselves
 			// We simply append the individual widgets here
-			s += ";" + widgets.get(i).toSaveForm();
+			if (i > 0) {
+				sb.append(';');
+			}
+			sb.append(widgets.get(i).toSaveForm());
 		}
 
-		return s.substring(1);
+		return sb.toString();
 	}
 
 	/**
@@ -0,0 +1,140 @@
+package simulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+
+import network.NetworkServer;
+
+/**
+ * A scripted sequence of value changes to be replayed by the
+ * {@link TelemetrySimulator}. A scenario file holds one event per line in the
+ * form <tt>&lt;seconds&gt; &lt;name&gt; &lt;value&gt;</tt>, where the time is
+ * measured from the start of the scenario. Events must be listed in order of
+ * time. Blank lines and lines beginning with '#' are ignored. For example:
+ * 
+ * <pre>
+ * # Robot enables, drives, then browns out
+ * 0.0 robot/enabled true
+ * 1.5 drive/speed 3.2
+ * 4.0 robot/voltage 6.8
+ * </pre>
+ */
+class Scenario {
+
+	private final ArrayList<Double> eventTimes;
+	private final ArrayList<String> eventNames;
+	private final ArrayList<String> eventValues;
+
+	private final boolean loop;
+
+	private int nextEvent;
+	private double startTime;
+
+	/**
+	 * Reads a scenario from a file.
+	 * 
+	 * @param scenarioFile The file to read the events from.
+	 * @param loop         Whether to start the scenario again once its last event
+	 *                     has been replayed.
+	 * 
+	 * @throws IOException              If the file could not be read.
+	 * @throws IllegalArgumentException If a line of the file is malformed, or its
+	 *                                  time is earlier than the line before it.
+	 */
+	Scenario(File scenarioFile, boolean loop) throws IOException, IllegalArgumentException {
+		this.loop = loop;
+
+		eventTimes = new ArrayList<Double>();
+		eventNames = new ArrayList<String>();
+		eventValues = new ArrayList<String>();
+
+		BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(scenarioFile)));
+		try {
+			String line;
+			int lineNumber = 0;
+			while ((line = br.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				String[] splitLine = line.split("\\s+", 3);
+				if (splitLine.length != 3) {
+					throw new IllegalArgumentException("Line " + lineNumber + " of the scenario is not valid: " + line);
+				}
+
+				double time;
+				try {
+					time = Double.parseDouble(splitLine[0]);
+				} catch (NumberFormatException e) {
+					time = Double.NaN;
+				}
+				if (Double.isNaN(time) || Double.isInfinite(time)) {
+					throw new IllegalArgumentException(
+							"Line " + lineNumber + " of the scenario has an invalid time: " + splitLine[0]);
+				}
+				// Replay stops at the first event still to come, so an earlier event listed
+				// later would hold back everything after it
+				if (!eventTimes.isEmpty() && time < eventTimes.get(eventTimes.size() - 1)) {
+					throw new IllegalArgumentException(
+							"Line " + lineNumber + " of the scenario is earlier than the event before it: " + line);
+				}
+				// Checked here, as the NetworkServer would otherwise only reject them part way
+				// through a replay
+				if (!isValidText(splitLine[1])) {
+					throw new IllegalArgumentException(
+							"Line " + lineNumber + " of the scenario has an invalid name: " + splitLine[1]);
+				}
+				if (!isValidText(splitLine[2])) {
+					throw new IllegalArgumentException(
+							"Line " + lineNumber + " of the scenario has an invalid value: " + splitLine[2]);
+				}
+
+				eventTimes.add(time);
+				eventNames.add(splitLine[1]);
+				eventValues.add(splitLine[2]);
+			}
+		} finally {
+			br.close();
+		}
+	}
+
+	/**
+	 * Checks a name or value against the characters the NetworkServer reserves for
+	 * its own use.
+	 * 
+	 * @param text The name or value to check.
+	 * @return <tt>true</tt> if the NetworkServer will accept it, <tt>false</tt>
+	 *         otherwise.
+	 */
+	private static boolean isValidText(String text) {
+		return !(text.contains("`") || text.contains(",") || text.contains(";") || text.contains("__"));
+	}
+
+	/**
+	 * Writes every event whose time has come since the last call to the server.
+	 * 
+	 * @param server  The server to write the values to.
+	 * @param curTime The time since the simulator started (in seconds).
+	 */
+	void replay(NetworkServer server, double curTime) {
+		if (eventTimes.isEmpty()) {
+			return;
+		}
+
+		while (nextEvent < eventTimes.size() && eventTimes.get(nextEvent) <= curTime - startTime) {
+			server.writeString(eventNames.get(nextEvent), eventValues.get(nextEvent));
+			nextEvent++;
+		}
+
+		if (nextEvent == eventTimes.size() && loop) {
+			nextEvent = 0;
+			startTime = curTime;
+		}
+	}
+}
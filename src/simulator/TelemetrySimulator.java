@@ -0,0 +1,218 @@
+package simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+
+import network.NetworkServer;
+
+/**
+ * A stand-in for the robot, used to run and profile the dashboard without one.
+ * The simulator hosts a {@link NetworkServer} and publishes a set of synthetic
+ * values, updating every one of them at a fixed rate. It can also replay a
+ * {@link Scenario} file on top of the synthetic values.
+ *
+ * <br>
+ * <br>
+ *
+ * Options:
+ *
+ * <pre>
+ * --port &lt;port&gt;           Port to accept the dashboard on (default 12345)
+ * --keys &lt;count&gt;          Number of synthetic values to publish (default 20)
+ * --rate &lt;hz&gt;             Updates and transmissions per second (default 50)
+ * --patterns &lt;list&gt;       Comma separated patterns to cycle through when
+ *                         creating values: sine, noise, step, toggle, string
+ *                         (default all of them)
+ * --scenario &lt;file&gt;       Scenario file to replay
+ * --loop                  Restart the scenario when it finishes
+ * </pre>
+ *
+ * Values are published as 'sim/&lt;pattern&gt;/&lt;number&gt;'. For example,
+ * <tt>--keys 10000 --rate 200</tt> produces an extreme load for profiling.
+ */
+public class TelemetrySimulator {
+
+	private static final String[] STRING_STATES = { "IDLE", "INTAKE", "SHOOT", "CLIMB" };
+
+	private final NetworkServer server;
+
+	private final ArrayList<Pattern> keyPatterns;
+	private final ArrayList<String> keyNames;
+
+	private final int rate;
+
+	private final Scenario scenario;
+
+	private final Random random;
+
+	private TelemetrySimulator(int port, int keys, int rate, ArrayList<Pattern> patterns, Scenario scenario) {
+		this.rate = rate;
+		this.scenario = scenario;
+
+		random = new Random();
+
+		keyPatterns = new ArrayList<Pattern>();
+		keyNames = new ArrayList<String>();
+		for (int i = 0; i < keys; i++) {
+			Pattern curPattern = patterns.get(i % patterns.size());
+			keyPatterns.add(curPattern);
+			keyNames.add("sim/" + curPattern.name().toLowerCase() + "/" + i);
+		}
+
+		server = NetworkServer.getInstance();
+		server.setPort(port);
+		server.setSendFrequency(rate);
+	}
+
+	private void run() {
+		long simStartTime = System.currentTimeMillis();
+
+		while (true) {
+			long startTime = System.currentTimeMillis();
+			double curTime = (startTime - simStartTime) / 1000.0;
+
+			for (int i = 0; i < keyNames.size(); i++) {
+				writeValue(i, curTime);
+			}
+
+			if (scenario != null) {
+				scenario.replay(server, curTime);
+			}
+
+			int timeElapsed = (int) (System.currentTimeMillis() - startTime);
+			int timeToSleep = (int) ((1000.0 / rate) - timeElapsed);
+
+			try {
+				Thread.sleep(Math.max(timeToSleep, 1));
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Writes the value of a single synthetic key for the given time. Each key is
+	 * given slightly different parameters based on its number so that values of
+	 * the same pattern can still be told apart on the dashboard.
+	 *
+	 * @param index   The number of the key to write.
+	 * @param curTime The time since the simulator started (in seconds).
+	 */
+	private void writeValue(int index, double curTime) {
+		String name = keyNames.get(index);
+
+		switch (keyPatterns.get(index)) {
+		case SINE:
+			double frequency = 0.2 + (index % 10) * 0.1;
+			server.writeDouble(name, Math.sin(2 * Math.PI * frequency * curTime + index));
+			break;
+		case NOISE:
+			server.writeDouble(name, random.nextGaussian());
+			break;
+		case STEP:
+			int stepHeight = index % 5 + 1;
+			server.writeInt(name, ((int) (curTime / 2) % 2) * stepHeight);
+			break;
+		case TOGGLE:
+			server.writeString(name, Boolean.toString((int) (curTime + index) % 2 == 0));
+			break;
+		case STRING:
+			server.writeString(name, STRING_STATES[(int) (curTime / 3 + index) % STRING_STATES.length]);
+			break;
+		}
+	}
+
+	private enum Pattern {
+		SINE, NOISE, STEP, TOGGLE, STRING
+	}
+
+	/**
+	 * Gets the value given for the option at the given position.
+	 *
+	 * @param args  The command line arguments.
+	 * @param index The position of the option itself.
+	 * @return The argument following the option.
+	 *
+	 * @throws IllegalArgumentException If the option is the last argument.
+	 */
+	private static String getOptionValue(String[] args, int index) throws IllegalArgumentException {
+		if (index + 1 >= args.length) {
+			throw new IllegalArgumentException("Missing value for option: " + args[index]);
+		}
+		return args[index + 1];
+	}
+
+	public static void main(String[] args) {
+		int port = 12345;
+		int keys = 20;
+		int rate = 50;
+		String patternList = "sine,noise,step,toggle,string";
+		String scenarioPath = null;
+		boolean loop = false;
+
+		TelemetrySimulator simulator;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--port":
+					port = Integer.parseInt(getOptionValue(args, i++));
+					break;
+				case "--keys":
+					keys = Integer.parseInt(getOptionValue(args, i++));
+					break;
+				case "--rate":
+					rate = Integer.parseInt(getOptionValue(args, i++));
+					break;
+				case "--patterns":
+					patternList = getOptionValue(args, i++);
+					break;
+				case "--scenario":
+					scenarioPath = getOptionValue(args, i++);
+					break;
+				case "--loop":
+					loop = true;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: " + args[i]);
+				}
+			}
+
+			if (keys < 0) {
+				throw new IllegalArgumentException("The number of keys must not be negative");
+			}
+			if (rate < 1) {
+				throw new IllegalArgumentException("The rate must be at least 1");
+			}
+			if (loop && scenarioPath == null) {
+				throw new IllegalArgumentException("--loop requires a scenario to be given with --scenario");
+			}
+
+			ArrayList<Pattern> patterns = new ArrayList<Pattern>();
+			for (String curPattern : patternList.split(",")) {
+				try {
+					patterns.add(Pattern.valueOf(curPattern.trim().toUpperCase()));
+				} catch (IllegalArgumentException e) {
+					throw new IllegalArgumentException("Unknown pattern: " + curPattern);
+				}
+			}
+
+			Scenario scenario = null;
+			if (scenarioPath != null) {
+				scenario = new Scenario(new File(scenarioPath), loop);
+			}
+
+			simulator = new TelemetrySimulator(port, keys, rate, patterns, scenario);
+		} catch (IOException e) {
+			System.err.println("Unable to read the scenario file: " + scenarioPath);
+			return;
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		simulator.run();
+	}
+}
@@ -5,6 +5,7 @@ import java.awt.Color;
 import java.awt.Dialog.ModalityType;
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.awt.GridLayout;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,9 +14,12 @@ import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JSpinner;
 import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingConstants;
 
+import dashboard.CoalescingCallback;
 import dashboard.Widget;
 import network.NetworkClient;
 
@@ -32,6 +36,11 @@ public class BooleanBox extends Widget {
 
 	private String valueToWatch;
 	private String callbackName;
+	private CoalescingCallback callback;
+
+	// Limit on how often the box updates. There is no deadband, since the value is
+	// a boolean rather than a number.
+	private int updateInterval;
 
 	public BooleanBox() {
 		this.setPreferredSize(new Dimension(100, 100));
@@ -41,7 +50,14 @@ public class BooleanBox extends Widget {
 	}
 
 	private void setMonitoredValue(String toWatch) {
-		if (toWatch != null) {
+		if (toWatch != null && toWatch.equals(valueToWatch)) {
+			// Keep the existing monitor and only update its interval. The NetworkClient
+			// throws on its shared timer if a monitor is removed while a notification for
+			// it is still queued, which stops all network updates.
+			if (callback != null) {
+				callback.setMinimumInterval(updateInterval);
+			}
+		} else if (toWatch != null) {
 			// If we were watching a different value before, stop watching it
 			if (valueToWatch != null && !valueToWatch.isEmpty()) {
 				NetworkClient.getInstance().removeValueMonitor(valueToWatch, callbackName);
@@ -53,7 +69,9 @@ public class BooleanBox extends Widget {
 			// this widget to reflect the current watched value.
 			if (!valueToWatch.isEmpty()) {
 				callbackName = "BooleanBox-" + Math.random() + "-" + System.currentTimeMillis();
-				NetworkClient.getInstance().addValueMonitor(valueToWatch, callbackName, () -> updateValue());
+				callback = new CoalescingCallback(() -> updateValue());
+				callback.setMinimumInterval(updateInterval);
+				NetworkClient.getInstance().addValueMonitor(valueToWatch, callbackName, callback);
 				displayColor = Color.GRAY;
 			}
 		}
@@ -87,6 +105,10 @@ public class BooleanBox extends Widget {
 
 	@Override
 	protected void widgetLoaded(Map<String, String> args) {
+		// Clamped to the range the settings window allows, or it could not be opened
+		updateInterval = Integer.parseInt(args.getOrDefault("updateInterval", updateInterval + ""));
+		updateInterval = Math.max(0, Math.min(updateInterval, CoalescingCallback.MAX_MINIMUM_INTERVAL));
+
 		// Load so that we start watching the save value we were when we were saved.
 		setMonitoredValue(args.get("valueToWatch"));
 	}
@@ -96,6 +118,7 @@ public class BooleanBox extends Widget {
 		HashMap<String, String> map = new HashMap<String, String>();
 		// Save which value were watching.
 		map.put("valueToWatch", valueToWatch);
+		map.put("updateInterval", updateInterval + "");
 		return map;
 	}
 
@@ -111,13 +134,22 @@ public class BooleanBox extends Widget {
 
 		innerPanel.add(new JLabel("Settings", SwingConstants.CENTER), BorderLayout.NORTH);
 
-		innerPanel.add(new JLabel("Value to Display:"), BorderLayout.WEST);
+		JPanel fieldsPanel = new JPanel(new GridLayout(0, 2, 5, 5));
 
+		fieldsPanel.add(new JLabel("Value to Display:"));
 		JTextField field = new JTextField(valueToWatch, 20);
-		innerPanel.add(field, BorderLayout.EAST);
+		fieldsPanel.add(field);
+
+		fieldsPanel.add(new JLabel("Minimum Update Interval (ms):"));
+		JSpinner updateIntervalSpinner = new JSpinner(
+				new SpinnerNumberModel(updateInterval, 0, CoalescingCallback.MAX_MINIMUM_INTERVAL, 10));
+		fieldsPanel.add(updateIntervalSpinner);
+
+		innerPanel.add(fieldsPanel, BorderLayout.CENTER);
 
 		JButton acceptButton = new JButton("Accept");
 		acceptButton.addActionListener((ActionEvent) -> {
+			updateInterval = (int) updateIntervalSpinner.getValue();
 			setMonitoredValue(field.getText());
 			settingsDialog.dispose();
 		});
@@ -2,14 +2,21 @@ package widgets;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.GridLayout;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
 import javax.swing.JLabel;
+import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 
+import dashboard.CoalescingCallback;
+import dashboard.ConnectionListener;
+import dashboard.ConnectionMonitor;
 import dashboard.Widget;
 import network.NetworkClient;
 
@@ -22,10 +29,27 @@ public class ConnectionWidget extends Widget {
 
 	public static final String NAME = "Connection Status";
 
+	// One sample is taken per second, so this covers the last minute. Note that
+	// each sample is the NetworkClient's average of its last 10 pings, not a
+	// single round trip.
+	private static final int PING_HISTORY_LENGTH = 60;
+
 	private final Timer timer;
+	private final ConnectionListener connectionListener;
 
 	private JTextField field;
 
+	private final JLabel pingRangeLabel;
+	private final JLabel reconnectLabel;
+	private final JLabel callbackLabel;
+
+	// Ring buffer of recent ping times, with a second array reused for sorting so
+	// that updating the display does not allocate
+	private final int[] pingHistory;
+	private final int[] sortedPings;
+	private int pingHistoryStart;
+	private int pingHistorySize;
+
 	public ConnectionWidget() {
 
 		this.add(new JLabel("Connection Status", SwingConstants.CENTER), BorderLayout.NORTH);
@@ -34,26 +58,67 @@ public class ConnectionWidget extends Widget {
 		field.setEditable(false);
 		this.add(field, BorderLayout.CENTER);
 
+		JPanel metricsPanel = new JPanel(new GridLayout(0, 1));
+		pingRangeLabel = new JLabel(" ", SwingConstants.CENTER);
+		metricsPanel.add(pingRangeLabel);
+		reconnectLabel = new JLabel(" ", SwingConstants.CENTER);
+		metricsPanel.add(reconnectLabel);
+		callbackLabel = new JLabel(" ", SwingConstants.CENTER);
+		metricsPanel.add(callbackLabel);
+		this.add(metricsPanel, BorderLayout.SOUTH);
+
+		pingHistory = new int[PING_HISTORY_LENGTH];
+		sortedPings = new int[PING_HISTORY_LENGTH];
+
+		connectionListener = (connected) -> field.setBackground(connected ? Color.GREEN : Color.RED);
+		ConnectionMonitor.getInstance().addConnectionListener(connectionListener);
+
 		timer = new Timer(true);
 		timer.schedule(new TimerTask() {
 			@Override
 			public void run() {
-				if (NetworkClient.getInstance().isConnected()) {
-					field.setBackground(Color.GREEN);
-				} else {
-					field.setBackground(Color.RED);
-				}
-
-				field.setText("Ping: " + NetworkClient.getInstance().getPingTime() + "ms");
+				SwingUtilities.invokeLater(() -> updateMetrics());
 			}
 		}, 0, 1000);
 	}
 
+	private void updateMetrics() {
+		int pingTime = NetworkClient.getInstance().getPingTime();
+		field.setText("Avg Ping: " + pingTime + "ms");
+
+		if (ConnectionMonitor.getInstance().isConnected()) {
+			addPingSample(pingTime);
+		}
+
+		if (pingHistorySize > 0) {
+			System.arraycopy(pingHistory, 0, sortedPings, 0, pingHistorySize);
+			Arrays.sort(sortedPings, 0, pingHistorySize);
+			pingRangeLabel.setText("10-ping avg, last minute: min " + sortedPings[0] + "ms  median "
+					+ sortedPings[(pingHistorySize - 1) / 2] + "ms  max " + sortedPings[pingHistorySize - 1] + "ms");
+		}
+
+		reconnectLabel.setText("Reconnects: " + ConnectionMonitor.getInstance().getReconnectCount());
+		callbackLabel.setText(String.format("Callbacks: %d pending, %.1fms avg delay",
+				CoalescingCallback.getPendingDispatches(), CoalescingCallback.getAverageDispatchLatency()));
+	}
+
+	private void addPingSample(int pingTime) {
+		int index = (pingHistoryStart + pingHistorySize) % PING_HISTORY_LENGTH;
+		pingHistory[index] = pingTime;
+
+		if (pingHistorySize < PING_HISTORY_LENGTH) {
+			pingHistorySize++;
+		} else {
+			pingHistoryStart = (pingHistoryStart + 1) % PING_HISTORY_LENGTH;
+		}
+	}
+
 	@Override
 	protected void deconstruct() {
 		// If we didn't do this the timer would continue to exist, and would be waste of
 		// memory.
 		timer.cancel();
+		ConnectionMonitor.getInstance().removeConnectionListener(connectionListener);
 	}
 
 	@Override
@@ -39,15 +39,25 @@ public class GraphWidget extends Widget {
 
 	public static final String NAME = "Graph";
 
+	private static final BasicStroke AXIS_STROKE = new BasicStroke(3);
+	private static final Font LABEL_FONT = new Font("SansSerif", Font.PLAIN, 14);
+
 	private final JLabel titleLabel;
 	private final GraphPanel graphPanel;
 
-	private final ArrayList<Double> valueHistory;
+	private final ArrayList<Sample> valueHistory;
 
 	private final Thread timingThread;
 	private boolean stopThread;
 
 	private String valueToGraph;
+	private String callbackName;
+
+	// Parsed once per change by the value monitor, so polling never touches the
+	// NetworkClient. The value and its arrival time are published together so a
+	// poll can never pair one with the other's neighbor. A null value marks a
+	// missing or non-numeric value.
+	private volatile Sample latestSample;
 
 	private int historyLength;
 	private int pollingRate;
@@ -62,8 +72,9 @@ public class GraphWidget extends Widget {
 		graphPanel = new GraphPanel();
 		this.add(graphPanel, BorderLayout.CENTER);
 
-		valueHistory = new ArrayList<Double>();
+		valueHistory = new ArrayList<Sample>();
 		valueToGraph = "";
+		latestSample = new Sample(0, null);
 
 		historyLength = 10;
 		pollingRate = 20;
@@ -95,31 +106,61 @@ public class GraphWidget extends Widget {
 	}
 
 	private void setGraphedValue(String newValue) {
-		if (newValue != null) {
-			if (!newValue.equals(valueToGraph)) {
+		// Keep the existing monitor if the value is unchanged. The NetworkClient
+		// throws on its shared timer if a monitor is removed while a notification for
+		// it is still queued, which stops all network updates.
+		if (newValue != null && !newValue.equals(valueToGraph)) {
+			synchronized (valueHistory) {
 				valueHistory.clear();
 			}
 
+			if (callbackName != null) {
+				NetworkClient.getInstance().removeValueMonitor(valueToGraph, callbackName);
+				callbackName = null;
+			}
+
 			valueToGraph = newValue;
 
 			if (valueToGraph.isEmpty()) {
 				titleLabel.setText("New Graph");
+				latestSample = new Sample(System.currentTimeMillis(), null);
 			} else {
 				titleLabel.setText("Graph of '" + valueToGraph + "'");
+				callbackName = "Graph-" + Math.random() + "-" + System.currentTimeMillis();
+				NetworkClient.getInstance().addValueMonitor(valueToGraph, callbackName, () -> updateLatestValue());
+				// The monitor only fires on a change, so pick up any value we already have
+				updateLatestValue();
 			}
 		}
 	}
 
-	private void updateValueHistory() {
+	private void updateLatestValue() {
 		try {
-			double curVal = NetworkClient.getInstance().readDouble(valueToGraph);
-			valueHistory.add(0, curVal);
+			double value = NetworkClient.getInstance().readDouble(valueToGraph);
+			latestSample = new Sample(System.currentTimeMillis(), value);
 		} catch (IllegalArgumentException | ValueNotFoundException e) {
-			valueHistory.add(null);
+			latestSample = new Sample(System.currentTimeMillis(), null);
 		}
+	}
 
-		while (valueHistory.size() > historyLength * pollingRate) {
-			valueHistory.remove(valueHistory.size() - 1);
+	private void updateValueHistory() {
+		long curTime = System.currentTimeMillis();
+		Sample curSample = latestSample;
+
+		synchronized (valueHistory) {
+			// A sample is placed at the time its value arrived if that happened since the
+			// last poll, so the polling loop's own jitter does not show up on the graph
+			long sampleTime = curTime;
+			if (!valueHistory.isEmpty() && curSample.time > valueHistory.get(0).time) {
+				sampleTime = curSample.time;
+			}
+
+			valueHistory.add(0, new Sample(sampleTime, curSample.value));
+
+			long oldestTime = curTime - historyLength * 1000L;
+			while (valueHistory.size() > 1 && valueHistory.get(valueHistory.size() - 1).time < oldestTime) {
+				valueHistory.remove(valueHistory.size() - 1);
+			}
 		}
 	}
 
@@ -128,9 +169,11 @@ public class GraphWidget extends Widget {
 			return 0;
 		} else {
 			double min = 0;
-			for (int i = 1; i < valueHistory.size(); i++) {
-				if (valueHistory.get(i) != null) {
-					min = Math.min(min, valueHistory.get(i));
+			synchronized (valueHistory) {
+				for (int i = 1; i < valueHistory.size(); i++) {
+					if (valueHistory.get(i).value != null) {
+						min = Math.min(min, valueHistory.get(i).value);
+					}
 				}
 			}
 			return min;
@@ -142,9 +185,11 @@ public class GraphWidget extends Widget {
 			return 0;
 		} else {
 			double max = 0;
-			for (int i = 1; i < valueHistory.size(); i++) {
-				if (valueHistory.get(i) != null) {
-					max = Math.max(max, valueHistory.get(i));
+			synchronized (valueHistory) {
+				for (int i = 1; i < valueHistory.size(); i++) {
+					if (valueHistory.get(i).value != null) {
+						max = Math.max(max, valueHistory.get(i).value);
+					}
 				}
 			}
 			return max;
@@ -154,6 +199,10 @@ public class GraphWidget extends Widget {
 	@Override
 	protected void deconstruct() {
 		stopThread = true;
+
+		if (callbackName != null) {
+			NetworkClient.getInstance().removeValueMonitor(valueToGraph, callbackName);
+		}
 	}
 
 	@Override
@@ -258,7 +307,11 @@ public class GraphWidget extends Widget {
 		}
 
 		private void updateDisplayImage() {
-			displayImage = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+			// The whole image is redrawn every frame, so it only needs replacing on a resize
+			if (displayImage == null || displayImage.getWidth() != getWidth()
+					|| displayImage.getHeight() != getHeight()) {
+				displayImage = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+			}
 			Graphics2D g2d = displayImage.createGraphics();
 
 			// Clear the chart
@@ -293,26 +346,31 @@ public class GraphWidget extends Widget {
 
 			// Calculate and draw the x-axis line
 			int zeroPosition = (maxDisplayValue * vertTickMarkSpacing);
-			g2d.setStroke(new BasicStroke(3));
+			g2d.setStroke(AXIS_STROKE);
 			g2d.drawLine(0, zeroPosition, getWidth(), zeroPosition);
 
 			// Draw the data line on the graph
 			g2d.setColor(Color.GREEN);
 			g2d.setStroke(new BasicStroke(lineThickness));
-			double pointSpacing = getWidth() / ((double) historyLength * pollingRate);
-			for (int i = valueHistory.size() - 1; i >= 1; i--) {
-				if (valueHistory.get(i) != null && valueHistory.get(i - 1) != null) {
-					int x1 = (int) (getWidth() - (i * pointSpacing));
-					int y1 = (int) (zeroPosition - (valueHistory.get(i) * vertTickMarkSpacing));
-					int x2 = (int) (getWidth() - ((i - 1) * pointSpacing));
-					int y2 = (int) (zeroPosition - (valueHistory.get(i - 1) * vertTickMarkSpacing));
-					g2d.drawLine(x1, y1, x2, y2);
+			long curTime = System.currentTimeMillis();
+			double pixelsPerMilli = getWidth() / (historyLength * 1000.0);
+			synchronized (valueHistory) {
+				for (int i = valueHistory.size() - 1; i >= 1; i--) {
+					Sample older = valueHistory.get(i);
+					Sample newer = valueHistory.get(i - 1);
+					if (older.value != null && newer.value != null) {
+						int x1 = (int) (getWidth() - ((curTime - older.time) * pixelsPerMilli));
+						int y1 = (int) (zeroPosition - (older.value * vertTickMarkSpacing));
+						int x2 = (int) (getWidth() - ((curTime - newer.time) * pixelsPerMilli));
+						int y2 = (int) (zeroPosition - (newer.value * vertTickMarkSpacing));
+						g2d.drawLine(x1, y1, x2, y2);
+					}
 				}
 			}
 
 			// Draw the value labels for the horizontal lines
 			g2d.setColor(Color.RED);
-			g2d.setFont(new Font("SansSerif", Font.PLAIN, 14));
+			g2d.setFont(LABEL_FONT);
 			int vertTextOffset = g2d.getFontMetrics().getHeight();
 			for (int i = 0; i <= vertValueRange * 2; i++) {
 				int negHorzTextOffset = g2d.getFontMetrics().stringWidth(-i + "") / 2;
@@ -321,6 +379,22 @@ public class GraphWidget extends Widget {
 						zeroPosition + (i * vertTickMarkSpacing) - (vertTextOffset / 2));
 				g2d.drawString(i + "", posHorzTextOffset, zeroPosition - (i * vertTickMarkSpacing) + vertTextOffset);
 			}
+
+			g2d.dispose();
+		}
+	}
+
+	/**
+	 * A single point on the graph, and the time it was recorded at.
+	 */
+	private static class Sample {
+
+		private final long time;
+		private final Double value;
+
+		private Sample(long time, Double value) {
+			this.time = time;
+			this.value = value;
 		}
 	}
 }
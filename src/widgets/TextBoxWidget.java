@@ -1,7 +1,9 @@
 package widgets;
 
 import java.awt.BorderLayout;
+import java.awt.Color;
 import java.awt.Dialog.ModalityType;
+import java.awt.GridLayout;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -10,9 +12,17 @@ import javax.swing.JCheckBox;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JSpinner;
 import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.UIManager;
 
+import dashboard.CoalescingCallback;
+import dashboard.ConnectionListener;
+import dashboard.ConnectionMonitor;
 import dashboard.Widget;
 import network.NetworkClient;
 
@@ -25,62 +35,211 @@ public class TextBoxWidget extends Widget {
 
 	public static final String NAME = "Text Box";
 
+	// How long the robot has to report a written value back before the write is
+	// shown as not acknowledged
+	private static final int ACKNOWLEDGE_TIMEOUT = 2000;
+
+	// Limit on the deadband, shared by the settings window and loading
+	private static final double MAX_DEADBAND = 1000000;
+
+	private static final Color PENDING_COLOR = Color.YELLOW;
+	private static final Color NOT_ACKNOWLEDGED_COLOR = Color.ORANGE;
+
 	private final JLabel titleLabel;
 	private final JTextField textField;
 	private String valueToDisplay;
 
 	private String callbackName;
+	private String acknowledgeCallbackName;
+	private CoalescingCallback callback;
+
+	// Filters applied to the value monitor so that noisy values do not update the
+	// display faster than can be read
+	private int updateInterval;
+	private double deadband;
+	private double relativeDeadband;
+
+	// The last value written from this text box that the robot has not yet
+	// reported back, or null if there is none
+	private volatile String pendingWrite;
+	private final Timer acknowledgeTimer;
+
+	private final ConnectionListener connectionListener;
 
 	public TextBoxWidget() {
 
 		titleLabel = new JLabel("New Text Box", SwingConstants.CENTER);
 		this.add(titleLabel, BorderLayout.NORTH);
 
-		setMonitoredValue("");
-
 		textField = new JTextField(20);
 		textField.setEditable(false);
 		textField.setHorizontalAlignment(JTextField.CENTER);
 
+		acknowledgeTimer = new Timer(ACKNOWLEDGE_TIMEOUT, (ActionEvent) -> markNotAcknowledged());
+		acknowledgeTimer.setRepeats(false);
+
+		setMonitoredValue("");
+
 		textField.addActionListener((ActionEvent) -> {
 			if (textField.isEditable()) {
-				NetworkClient.getInstance().writeString(valueToDisplay, textField.getText());
+				NetworkClient client = NetworkClient.getInstance();
+				String toWrite = textField.getText();
+				client.writeString(valueToDisplay, toWrite);
+
+				// Highlighted until the robot reports the value back, so the driver can see
+				// when the write has landed. If the robot already has this value, no change
+				// will ever be reported.
+				if (!client.hasValue(valueToDisplay) || !matchesWrite(client.readString(valueToDisplay), toWrite)) {
+					pendingWrite = toWrite;
+					textField.setBackground(PENDING_COLOR);
+					textField.setToolTipText("Waiting for the robot to acknowledge '" + toWrite + "'");
+					acknowledgeTimer.restart();
+				}
 			}
 		});
 
 		this.add(textField, BorderLayout.CENTER);
+
+		// A write can't be acknowledged while disconnected, and one sent just before
+		// the connection dropped may never have arrived
+		connectionListener = (connected) -> {
+			if (connected) {
+				checkAcknowledged();
+			} else {
+				markNotAcknowledged();
+			}
+		};
+		ConnectionMonitor.getInstance().addConnectionListener(connectionListener);
 	}
 
 	private void setMonitoredValue(String toWatch) {
-		if (toWatch != null) {
+		if (toWatch != null && toWatch.equals(valueToDisplay)) {
+			// Keep the existing monitors and only update the filters. The NetworkClient
+			// throws on its shared timer if a monitor is removed while a notification for
+			// it is still queued, which stops all network updates.
+			if (callback != null) {
+				applyFilters();
+			}
+		} else if (toWatch != null) {
 
 			if (valueToDisplay != null && !valueToDisplay.isEmpty()) {
 				NetworkClient.getInstance().removeValueMonitor(valueToDisplay, callbackName);
+				NetworkClient.getInstance().removeValueMonitor(valueToDisplay, acknowledgeCallbackName);
 			}
 
 			valueToDisplay = toWatch;
+			clearPendingWrite();
 
 			if (valueToDisplay.isEmpty()) {
 				titleLabel.setText("New Text Box");
 			} else {
 				titleLabel.setText("Text Box: '" + valueToDisplay + "'");
 				callbackName = "TextBox-" + Math.random() + "-" + System.currentTimeMillis();
-				NetworkClient.getInstance().addValueMonitor(valueToDisplay, callbackName, () -> {
-					textField.setText(NetworkClient.getInstance().readString(valueToDisplay));
+				callback = new CoalescingCallback(() -> updateValue());
+				applyFilters();
+				NetworkClient.getInstance().addValueMonitor(valueToDisplay, callbackName, callback);
+
+				// Watched without the filters above, which could otherwise hide the robot
+				// reporting back a value written from here
+				acknowledgeCallbackName = callbackName + "-Acknowledge";
+				NetworkClient.getInstance().addValueMonitor(valueToDisplay, acknowledgeCallbackName, () -> {
+					if (pendingWrite != null) {
+						SwingUtilities.invokeLater(() -> checkAcknowledged());
+					}
 				});
 			}
 		}
 	}
 
+	private void applyFilters() {
+		callback.setMinimumInterval(updateInterval);
+		callback.setDeadband(valueToDisplay, deadband, relativeDeadband / 100);
+	}
+
+	private void updateValue() {
+		textField.setText(NetworkClient.getInstance().readString(valueToDisplay));
+	}
+
+	private void checkAcknowledged() {
+		NetworkClient client = NetworkClient.getInstance();
+		if (pendingWrite != null && client.hasValue(valueToDisplay)) {
+			String readValue = client.readString(valueToDisplay);
+			if (matchesWrite(readValue, pendingWrite)) {
+				textField.setText(readValue);
+				clearPendingWrite();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a value reported by the robot is the value written. Numbers
+	 * are compared by value, as the robot may report a written '1' back as '1.0'.
+	 */
+	private boolean matchesWrite(String readValue, String written) {
+		if (readValue.equals(written)) {
+			return true;
+		}
+
+		try {
+			return Double.parseDouble(readValue) == Double.parseDouble(written);
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private void markNotAcknowledged() {
+		acknowledgeTimer.stop();
+
+		// The pending write is kept, so a late report from the robot still clears it
+		if (pendingWrite != null) {
+			textField.setBackground(NOT_ACKNOWLEDGED_COLOR);
+			textField.setToolTipText("The robot has not acknowledged '" + pendingWrite + "'");
+		}
+	}
+
+	private void clearPendingWrite() {
+		acknowledgeTimer.stop();
+
+		if (pendingWrite != null) {
+			pendingWrite = null;
+			textField.setToolTipText(null);
+
+			// Restore the look and feel's color for the current state, as setEditable
+			// only updates the background if it has changed
+			if (textField.isEditable()) {
+				textField.setBackground(UIManager.getColor("TextField.background"));
+			} else {
+				textField.setBackground(UIManager.getColor("TextField.inactiveBackground"));
+			}
+		}
+	}
+
+	private static double clampDeadband(double deadband, double max) {
+		if (Double.isNaN(deadband)) {
+			return 0;
+		}
+		return Math.max(0, Math.min(deadband, max));
+	}
+
 	@Override
 	protected void deconstruct() {
+		acknowledgeTimer.stop();
+		ConnectionMonitor.getInstance().removeConnectionListener(connectionListener);
+
 		if (callbackName != null && !callbackName.isEmpty()) {
 			NetworkClient.getInstance().removeValueMonitor(valueToDisplay, callbackName);
+			NetworkClient.getInstance().removeValueMonitor(valueToDisplay, acknowledgeCallbackName);
 		}
 	}
 
 	@Override
 	protected void widgetLoaded(Map<String, String> args) {
+		// Clamped to the ranges the settings window allows, or it could not be opened
+		updateInterval = Integer.parseInt(args.getOrDefault("updateInterval", updateInterval + ""));
+		updateInterval = Math.max(0, Math.min(updateInterval, CoalescingCallback.MAX_MINIMUM_INTERVAL));
+		deadband = clampDeadband(Double.parseDouble(args.getOrDefault("deadband", deadband + "")), MAX_DEADBAND);
+		relativeDeadband = clampDeadband(
+				Double.parseDouble(args.getOrDefault("relativeDeadband", relativeDeadband + "")), 100);
 		setMonitoredValue(args.get("valueToDisplay"));
 		textField.setEditable("true".equals(args.get("editable")));
 	}
@@ -90,6 +249,9 @@ public class TextBoxWidget extends Widget {
 		HashMap<String, String> map = new HashMap<String, String>();
 		map.put("valueToDisplay", valueToDisplay);
 		map.put("editable", Boolean.toString(textField.isEditable()));
+		map.put("updateInterval", updateInterval + "");
+		map.put("deadband", deadband + "");
+		map.put("relativeDeadband", relativeDeadband + "");
 		return map;
 	}
 
@@ -105,9 +267,26 @@ public class TextBoxWidget extends Widget {
 
 		JPanel settingsPanel = new JPanel(new BorderLayout(5, 5));
 
-		settingsPanel.add(new JLabel("Value to Display:"), BorderLayout.WEST);
+		JPanel fieldsPanel = new JPanel(new GridLayout(0, 2, 5, 5));
+
+		fieldsPanel.add(new JLabel("Value to Display:"));
 		JTextField displayValueTextField = new JTextField(valueToDisplay, 20);
-		settingsPanel.add(displayValueTextField, BorderLayout.EAST);
+		fieldsPanel.add(displayValueTextField);
+
+		fieldsPanel.add(new JLabel("Minimum Update Interval (ms):"));
+		JSpinner updateIntervalSpinner = new JSpinner(
+				new SpinnerNumberModel(updateInterval, 0, CoalescingCallback.MAX_MINIMUM_INTERVAL, 10));
+		fieldsPanel.add(updateIntervalSpinner);
+
+		fieldsPanel.add(new JLabel("Numeric Deadband:"));
+		JSpinner deadbandSpinner = new JSpinner(new SpinnerNumberModel(deadband, 0.0, MAX_DEADBAND, 0.01));
+		fieldsPanel.add(deadbandSpinner);
+
+		fieldsPanel.add(new JLabel("Relative Deadband (%):"));
+		JSpinner relativeDeadbandSpinner = new JSpinner(new SpinnerNumberModel(relativeDeadband, 0.0, 100.0, 1.0));
+		fieldsPanel.add(relativeDeadbandSpinner);
+
+		settingsPanel.add(fieldsPanel, BorderLayout.CENTER);
 
 		JCheckBox editableCheckBox = new JCheckBox("Editable Value:");
 		editableCheckBox.setSelected(textField.isEditable());
@@ -119,6 +298,10 @@ public class TextBoxWidget extends Widget {
 
 		JButton acceptButton = new JButton("Accept");
 		acceptButton.addActionListener((ActionEvent) -> {
+			// Set before the value so the new monitor is created with them
+			updateInterval = (int) updateIntervalSpinner.getValue();
+			deadband = (double) deadbandSpinner.getValue();
+			relativeDeadband = (double) relativeDeadbandSpinner.getValue();
 			setMonitoredValue(displayValueTextField.getText());
 			textField.setEditable(editableCheckBox.isSelected());
 			settingsDialog.dispose();